@@ -19,13 +19,16 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
 import javax.swing.JFileChooser;
 import javax.swing.JOptionPane;
 import javax.swing.filechooser.FileSystemView;
 import xyz.scarabya.shuffledprojectsupdater.domain.Operation;
+import xyz.scarabya.shuffledprojectsupdater.domain.SourceRoot;
 import xyz.scarabya.shuffledprojectsupdater.engine.Engine;
 import xyz.scarabya.shuffledprojectsupdater.log.LightLogger;
 
@@ -51,16 +54,15 @@ public class Main
         File folderToUpdate = showFileChooser(
                 "Seleziona la cartella del parent da aggiornare");
         
-        String sourceRootName = JOptionPane.showInputDialog(
-                "Inserisci il nome della cartella dei sorgenti (es. \"src\")",
-                "src");
-        int sottocartelle = Integer.parseInt(JOptionPane.showInputDialog(
-                "Inserisci il numero di sottocartelle da saltare",
-                "0"));
+        List<SourceRoot> sourceRoots = readSourceRoots(
+                JOptionPane.showInputDialog(
+                "Inserisci le cartelle dei sorgenti e il numero di sottocartelle "
+                        + "da saltare (es. \"src:2, test:2\")",
+                "src:0"));
         
         boolean notSourcesForcedUpdate = JOptionPane.showConfirmDialog(null,
                 "Aggiornare in modo diretto (senza controlli) i file esterni "
-                        + "alla cartella sorgenti \""+sourceRootName+"?",
+                        + "alle cartelle sorgenti?",
                 "Aggiornamento diretto", JOptionPane.YES_NO_OPTION,
                 JOptionPane.QUESTION_MESSAGE) == JOptionPane.YES_OPTION;
         
@@ -81,10 +83,8 @@ public class Main
         Engine engine = new Engine(dirToExclude, fileToExclude, dirToBypass,
                 fileToBypass, notSourcesForcedUpdate);
         
-        engine.doOperation(originalFolder, sourceRootName, sottocartelle,
-                Operation.CREATE);        
-        engine.doOperation(folderToUpdate, sourceRootName, sottocartelle,
-                operation);   
+        engine.doOperation(originalFolder, sourceRoots, Operation.CREATE);
+        engine.doOperation(folderToUpdate, sourceRoots, operation);
     }
     
     private static File showFileChooser(String message)
@@ -106,6 +106,20 @@ public class Main
                 JOptionPane.QUESTION_MESSAGE, null, options, options[0])];
     }
     
+    private static List<SourceRoot> readSourceRoots(final String rootsRow)
+    {
+        String[] rootParams;
+        final List<SourceRoot> sourceRoots = new ArrayList<>();
+        for(String root : rootsRow.split(","))
+        {
+            rootParams = root.trim().split(":");
+            sourceRoots.add(new SourceRoot(rootParams[0].trim(),
+                    rootParams.length > 1 ?
+                            Integer.parseInt(rootParams[1].trim()) : 0));
+        }
+        return sourceRoots;
+    }
+    
     private static Set<String> readRulesFile(final File fileToRead)
             throws IOException
     {
@@ -19,7 +19,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
@@ -28,6 +28,7 @@ import xyz.scarabya.shuffledprojectsupdater.domain.Package;
 import xyz.scarabya.shuffledprojectsupdater.domain.DuplicateFileFoundException;
 import xyz.scarabya.shuffledprojectsupdater.domain.Operation;
 import xyz.scarabya.shuffledprojectsupdater.domain.OriginalFile;
+import xyz.scarabya.shuffledprojectsupdater.domain.SourceRoot;
 import xyz.scarabya.shuffledprojectsupdater.domain.SubDirNotFoundException;
 import xyz.scarabya.shuffledprojectsupdater.domain.TooManyDirectoriesException;
 
@@ -37,7 +38,7 @@ import xyz.scarabya.shuffledprojectsupdater.domain.TooManyDirectoriesException;
  */
 public class Engine
 {
-    private final Map<String, Package> sourceDirs;
+    private final Package sourceDirs;
     private final Level INFO_LOG = Level.INFO;
     private final Level WARNING_LOG = Level.WARNING;
     private final static Logger LOGGER =
@@ -54,7 +55,7 @@ public class Engine
             Set<String> dirToBypass, Set<String> fileToBypass,
             boolean notSourcesForcedUpdate)
     {
-        sourceDirs = new HashMap<>();
+        sourceDirs = new Package();
         this.dirToExclude = dirToExclude;
         this.fileToExclude = fileToExclude;
         this.dirToBypass = dirToBypass;
@@ -63,36 +64,57 @@ public class Engine
     }
     
     public void doOperation(final File rootDirectory,
-            final String sourceRootName, final int sourceLevel,
-            final Operation operation) throws TooManyDirectoriesException,
-            SubDirNotFoundException, DuplicateFileFoundException, IOException
+            final List<SourceRoot> sourceRoots, final Operation operation)
+            throws TooManyDirectoriesException, SubDirNotFoundException,
+            DuplicateFileFoundException, IOException
     {
         for (File projectDir : rootDirectory.listFiles())
             if (projectDir.isDirectory() &&
                     !dirToExclude.contains(projectDir.getName()))
             {
                 final String projectName = projectDir.getName();
-                final File sourceDir = Walker.walkInto(Walker
-                        .getSourceDir(projectDir, sourceRootName), sourceLevel);
-                final String sourceDirName = sourceDir.getName();
+                final Map<SourceRoot, File> projectSourceDirs =
+                        Walker.getSourceDirs(projectDir, sourceRoots);
                 
                 if(operation == Operation.CREATE)
-                    addPackage(sourceDirName, sourceDir, projectName);
+                    sourceDirs.mergeUsingPkg(getProjectPackage(
+                            projectSourceDirs, projectName));
                 else
-                    walkAndDoOperation(sourceDir, projectName,
-                            sourceDirs.get(sourceDirName), operation);
+                    for(Map.Entry<SourceRoot, File> sourceDir :
+                            projectSourceDirs.entrySet())
+                        walkSourceDir(sourceDir.getKey().getName(),
+                                sourceDir.getValue(), projectName, operation);
             }
     }
     
-    private void addPackage(final String sourceDirName, final File sourceDir,
-            final String projectName) throws TooManyDirectoriesException,
-            SubDirNotFoundException, DuplicateFileFoundException
+    private Package getProjectPackage(
+            final Map<SourceRoot, File> projectSourceDirs,
+            final String projectName)
+    {
+        final Package projectPkg = new Package();
+        Package rootPkg;
+        for(Map.Entry<SourceRoot, File> sourceDir :
+                projectSourceDirs.entrySet())
+        {
+            rootPkg = new Package();
+            rootPkg.addPackage(sourceDir.getValue().getName(),
+                    getPackage(sourceDir.getValue(), projectName));
+            projectPkg.addPackage(sourceDir.getKey().getName(), rootPkg);
+        }
+        return projectPkg;
+    }
+    
+    private void walkSourceDir(final String sourceRootName,
+            final File sourceDir, final String projectName,
+            final Operation operation) throws IOException
     {
-        if(sourceDirs.containsKey(sourceDirName))
-            sourceDirs.get(sourceDirName)
-                    .mergeUsingPkg(getPackage(sourceDir, projectName));
+        final Package rootPkg = sourceDirs.getSubPackage(sourceRootName);
+        final Package originalPkg = rootPkg != null ?
+                rootPkg.getSubPackage(sourceDir.getName()) : null;
+        if(originalPkg != null)
+            walkAndDoOperation(sourceDir, projectName, originalPkg, operation);
         else
-            sourceDirs.put(sourceDirName,getPackage(sourceDir, projectName));
+            LOGGER.log(WARNING_LOG, FILE_NOT_FOUND, sourceDir.getPath());
     }
     
     private void walkAndDoOperation(final File pkgToProcess,
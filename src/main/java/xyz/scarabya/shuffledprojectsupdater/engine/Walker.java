@@ -16,6 +16,10 @@
 package xyz.scarabya.shuffledprojectsupdater.engine;
 
 import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import xyz.scarabya.shuffledprojectsupdater.domain.SourceRoot;
 import xyz.scarabya.shuffledprojectsupdater.domain.SubDirNotFoundException;
 import xyz.scarabya.shuffledprojectsupdater.domain.TooManyDirectoriesException;
 
@@ -25,13 +29,25 @@ import xyz.scarabya.shuffledprojectsupdater.domain.TooManyDirectoriesException;
  */
 public class Walker
 {
-    protected static File getSourceDir(final File projectDir,
-            final String sourceDirName)
+    protected static Map<SourceRoot, File> getSourceDirs(
+            final File projectDir, final List<SourceRoot> sourceRoots)
+            throws TooManyDirectoriesException, SubDirNotFoundException
     {
+        final Map<String, SourceRoot> rootsByName = new HashMap<>();
+        for(SourceRoot sourceRoot : sourceRoots)
+            rootsByName.put(sourceRoot.getName(), sourceRoot);
+        
+        final Map<SourceRoot, File> sourceDirs = new HashMap<>();
+        SourceRoot sourceRoot;
         for(File file : projectDir.listFiles())
-            if(file.isDirectory() && sourceDirName.equals(file.getName()))
-                return file;
-        return null;
+            if(file.isDirectory())
+            {
+                sourceRoot = rootsByName.get(file.getName());
+                if(sourceRoot != null)
+                    sourceDirs.put(sourceRoot,
+                            walkInto(file, sourceRoot.getLevel()));
+            }
+        return sourceDirs;
     }
     
     protected static File walkInto(final File fromDir, final int hop)
@@ -46,11 +62,14 @@ public class Walker
             {
                 int i = 0, dirs=0, nextDir=0;
                 while(i<subDirs.length && dirs<2)
+                {
                     if(subDirs[i].isDirectory())
                     {
                         dirs++;
                         nextDir = i;
                     }
+                    i++;
+                }
                 if(dirs == 1)
                     return walkInto(subDirs[nextDir], hop-1);
                 if(dirs > 1)